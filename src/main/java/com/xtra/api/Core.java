@@ -30,6 +30,8 @@ import java.util.Optional;
 import com.xtra.api.ban.BanHandler;
 import com.xtra.api.command.CommandHandler;
 import com.xtra.api.command.annotation.CommandAnnotationHelper;
+import com.xtra.api.command.async.AsyncCommandExecutor;
+import com.xtra.api.command.runnable.CommandRateLimiter;
 import com.xtra.api.config.ConfigHandler;
 import com.xtra.api.config.annotation.ConfigAnnotationHelper;
 import com.xtra.api.entity.EntityHandler;
@@ -105,6 +107,27 @@ public class Core {
         return CORE.getHelpPaginationHandler(clazz);
     }
 
+    /**
+     * Creates a {@link AsyncCommandExecutor.Builder} for creating async command
+     * executors.
+     * 
+     * @param clazz The plugin class
+     * @return The async command executor builder
+     */
+    public static AsyncCommandExecutor.Builder createAsyncExecutorBuilder(Class<?> clazz) {
+        return CORE.createAsyncExecutorBuilder(clazz);
+    }
+
+    /**
+     * Creates a {@link CommandRateLimiter.Builder} for creating command rate
+     * limiters.
+     * 
+     * @return The command rate limiter builder
+     */
+    public static CommandRateLimiter.Builder createRateLimiterBuilder() {
+        return CORE.createRateLimiterBuilder();
+    }
+
     /**
      * Gets the {@link BanHandler}.
      * 
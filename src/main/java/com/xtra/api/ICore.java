@@ -30,6 +30,8 @@ import java.util.Optional;
 import com.xtra.api.ban.BanHandler;
 import com.xtra.api.command.CommandHandler;
 import com.xtra.api.command.annotation.CommandAnnotationHelper;
+import com.xtra.api.command.async.AsyncCommandExecutor;
+import com.xtra.api.command.runnable.CommandRateLimiter;
 import com.xtra.api.config.ConfigHandler;
 import com.xtra.api.config.annotation.ConfigAnnotationHelper;
 import com.xtra.api.entity.EntityHandler;
@@ -56,6 +58,10 @@ public interface ICore {
 
     Optional<HelpPaginationHandler> getHelpPaginationHandler(Class<?> clazz);
 
+    AsyncCommandExecutor.Builder createAsyncExecutorBuilder(Class<?> clazz);
+
+    CommandRateLimiter.Builder createRateLimiterBuilder();
+
     BanHandler getBanHandler();
 
     CommandAnnotationHelper getCommandAnnotationHelper();
@@ -25,11 +25,28 @@
 
 package com.xtra.api.ban;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.text.Text;
 
+/**
+ * A handler for looking up bans.
+ * 
+ * <p>Bans are held in a compact index keyed by profile {@link UUID}, rather
+ * than as a collection of ban objects. Checking if a profile is banned is a
+ * single lookup in this index, while ban reasons are only read from storage
+ * when they are requested. This keeps memory use low for large ban lists.</p>
+ * 
+ * <p>Ban lookups are cached by profile {@link UUID} for a limited time,
+ * including lookups for profiles that are not banned. Entries are invalidated
+ * automatically when a ban is added or removed through Sponge. If bans are
+ * changed in any other way, {@link #invalidate(UUID)} should be called.</p>
+ */
 public interface BanHandler {
 
     /**
@@ -41,4 +58,87 @@ public interface BanHandler {
      * @return The reason, or {@link Optional#empty()} if one is not available
      */
     Optional<Text> getBanReason(GameProfile profile);
+
+    /**
+     * Checks if the specified profile is banned. Unlike
+     * {@link #getBanReason(GameProfile)}, this never reads the ban reason.
+     * 
+     * @param profile The profile to check
+     * @return If the profile is banned
+     */
+    default boolean isBanned(GameProfile profile) {
+        return isBanned(profile.getUniqueId());
+    }
+
+    /**
+     * Checks if the profile with the specified unique id is banned.
+     * 
+     * @param uniqueId The unique id of the profile
+     * @return If the profile is banned
+     * @see #isBanned(GameProfile)
+     */
+    boolean isBanned(UUID uniqueId);
+
+    /**
+     * Gets the number of banned profiles.
+     * 
+     * @return The number of bans
+     */
+    int getBanCount();
+
+    /**
+     * Gets the ban reason for the specified profile without blocking the
+     * calling thread. The returned future is completed immediately if the
+     * result is cached.
+     * 
+     * <p>The future is not completed on the main server thread. If the result
+     * is cached, the future is already complete and any dependent actions run
+     * on the thread that adds them. Sponge API calls that must be made on the
+     * main server thread should be scheduled through the Sponge
+     * scheduler.</p>
+     * 
+     * @param profile The profile to get the ban reason from
+     * @return A future of the reason, or of {@link Optional#empty()} if one is
+     *         not available
+     * @see #getBanReason(GameProfile)
+     */
+    CompletableFuture<Optional<Text>> getBanReasonAsync(GameProfile profile);
+
+    /**
+     * Gets the ban reasons for all of the specified profiles in a single pass
+     * over the ban store, rather than looking up each profile separately.
+     * Profiles that are not banned are not contained in the returned map.
+     * 
+     * <p>The returned map is keyed by the unique id of each profile, as
+     * profiles with the same unique id may not be equal to one another.</p>
+     * 
+     * @param profiles The profiles to get the ban reasons from
+     * @return A mapping of the unique ids of the banned profiles and their
+     *         reasons, with {@link Optional#empty()} for bans without a reason
+     */
+    Map<UUID, Optional<Text>> getBanReasons(Collection<GameProfile> profiles);
+
+    /**
+     * Gets the ban reasons for all of the specified profiles without blocking
+     * the calling thread. The future completes on the same threads as
+     * {@link #getBanReasonAsync(GameProfile)}.
+     * 
+     * @param profiles The profiles to get the ban reasons from
+     * @return A future of the mapping of the unique ids of the banned profiles
+     *         and their reasons
+     * @see #getBanReasons(Collection)
+     */
+    CompletableFuture<Map<UUID, Optional<Text>>> getBanReasonsAsync(Collection<GameProfile> profiles);
+
+    /**
+     * Removes the cached ban lookup of the specified profile.
+     * 
+     * @param uniqueId The unique id of the profile
+     */
+    void invalidate(UUID uniqueId);
+
+    /**
+     * Removes all cached ban lookups.
+     */
+    void invalidateAll();
 }
@@ -28,6 +28,8 @@ package com.xtra.api.command;
 import java.util.Collection;
 import java.util.Optional;
 
+import com.xtra.api.command.async.AsyncCommandExecutor;
+import com.xtra.api.command.metrics.CommandMetrics;
 import com.xtra.api.command.runnable.CommandRunnableHandler;
 import com.xtra.api.command.state.CommandStateHandler;
 
@@ -87,4 +89,46 @@ public interface CommandHandler {
      * @return The command state handler
      */
     CommandStateHandler getCommandStateHandler();
+
+    /**
+     * Gets the default {@link AsyncCommandExecutor} of this handler.
+     * Asynchronous commands that do not specify an executor are ran on this.
+     * 
+     * @return The default async command executor
+     */
+    AsyncCommandExecutor getDefaultAsyncExecutor();
+
+    /**
+     * Gets the {@link AsyncCommandExecutor} for the specified name.
+     * 
+     * @param name The name of the executor
+     * @return The async command executor, or {@link Optional#empty()} if the
+     *         executor could not be found
+     */
+    Optional<AsyncCommandExecutor> getAsyncExecutor(String name);
+
+    /**
+     * Gets a collection of all of the async command executors of this handler,
+     * including the default executor.
+     * 
+     * @return All of the async command executors for this handler
+     */
+    Collection<AsyncCommandExecutor> getAsyncExecutors();
+
+    /**
+     * Gets the {@link CommandMetrics} for the specified command class.
+     * 
+     * @param clazz The command class
+     * @return The command metrics, or {@link Optional#empty()} if the command
+     *         could not be found
+     */
+    Optional<CommandMetrics> getMetrics(Class<? extends Command> clazz);
+
+    /**
+     * Gets the {@link CommandMetrics} of all commands for this command
+     * handler.
+     * 
+     * @return The metrics of all of the commands for this handler
+     */
+    Collection<CommandMetrics> getAllMetrics();
 }
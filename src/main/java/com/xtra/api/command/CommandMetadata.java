@@ -0,0 +1,109 @@
+/**
+ * This file is part of XtraAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2016 - 2016 XtraStudio <https://github.com/XtraStudio>
+ * Copyright (c) Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xtra.api.command;
+
+import java.util.Optional;
+
+import org.spongepowered.api.command.CommandSource;
+
+import com.xtra.api.command.annotation.RegisterCommand;
+import com.xtra.api.command.base.CommandBase;
+import com.xtra.api.plugin.XtraCorePluginContainer;
+import com.xtra.api.registry.CommandRegistry;
+
+/**
+ * Holds information about a registered {@link Command} that has been resolved
+ * ahead of time. Metadata is created once when the command is registered with
+ * the {@link CommandRegistry}, so none of the methods here perform any
+ * reflection or annotation lookups.
+ */
+public interface CommandMetadata {
+
+    /**
+     * Gets the class of the command.
+     * 
+     * @return The command class
+     */
+    Class<? extends Command> getCommandClass();
+
+    /**
+     * Gets the id of the command. Ids are unique within the
+     * {@link CommandRegistry} and are assigned densely starting from zero, so
+     * they may be used to index into arrays and bit sets.
+     * 
+     * @return The command id
+     * @see CommandRegistry#isEnabled(int)
+     */
+    int getId();
+
+    /**
+     * Gets the command object.
+     * 
+     * @return The command object
+     */
+    Command getCommand();
+
+    /**
+     * Gets the {@link XtraCorePluginContainer} that owns the command.
+     * 
+     * @return The plugin container
+     */
+    XtraCorePluginContainer getPluginContainer();
+
+    /**
+     * Gets the primary alias of the command. Please view
+     * {@link CommandHandler#getCommand(String)} for the specification.
+     * 
+     * @return The primary alias
+     */
+    String getPrimaryAlias();
+
+    /**
+     * Gets the {@link CommandSource} type required to execute the command, as
+     * specified in the generic of a {@link CommandBase}. Commands that do not
+     * extend {@link CommandBase} will return <code>CommandSource</code>.
+     * 
+     * @return The target command source type
+     */
+    Class<?> getTargetSource();
+
+    /**
+     * Gets if the command will be ran asynchronously.
+     * 
+     * @return If the command will run asynchronously
+     * @see RegisterCommand#async()
+     */
+    boolean isAsync();
+
+    /**
+     * Gets the parent command of the command.
+     * 
+     * @return The parent command, or {@link Optional#empty()} if the command
+     *         does not have a parent command
+     * @see RegisterCommand#childOf()
+     */
+    Optional<Class<? extends Command>> getParent();
+}
@@ -43,6 +43,15 @@ public interface CommandAnnotationHelper {
      */
     boolean isAsync(Class<? extends Command> clazz);
 
+    /**
+     * Gets the name of the async command executor the command will run on.
+     * 
+     * @param clazz The command class to check
+     * @return The executor name, or {@link Optional#empty()} if one was not
+     *         specified or if the register command annotation was not found
+     */
+    Optional<String> getExecutor(Class<? extends Command> clazz);
+
     /**
      * Returns if this command has a parent command.
      * 
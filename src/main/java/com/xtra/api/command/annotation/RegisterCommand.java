@@ -31,6 +31,8 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import com.xtra.api.command.Command;
+import com.xtra.api.command.CommandHandler;
+import com.xtra.api.command.async.AsyncCommandExecutor;
 import com.xtra.api.util.command.EmptyCommand;
 
 /**
@@ -48,6 +50,20 @@ public @interface RegisterCommand {
      */
     boolean async() default false;
 
+    /**
+     * The name of the {@link AsyncCommandExecutor} this command should run on.
+     * This is only used if {@link RegisterCommand#async()} is true. If nothing
+     * is specified, the default executor of the {@link CommandHandler} will be
+     * used.
+     * 
+     * <p>The executor must be built before the command is registered. If an
+     * executor by this name does not exist, the command will not be
+     * registered and an error will be logged to the plugin's logger.</p>
+     * 
+     * @return The name of the async command executor
+     */
+    String executor() default "";
+
     /**
      * The parent for this command. If nothing is specified, this command will
      * not have a parent command.
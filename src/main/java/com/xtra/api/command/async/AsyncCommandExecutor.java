@@ -0,0 +1,209 @@
+/**
+ * This file is part of XtraAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2016 - 2016 XtraStudio <https://github.com/XtraStudio>
+ * Copyright (c) Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xtra.api.command.async;
+
+import java.util.concurrent.TimeUnit;
+
+import com.xtra.api.command.Command;
+import com.xtra.api.command.CommandHandler;
+import com.xtra.api.command.annotation.RegisterCommand;
+
+/**
+ * A named, bounded executor that asynchronous {@link Command}s are ran on.
+ * Each {@link CommandHandler} has a default executor, and further executors
+ * may be created through a {@link AsyncCommandExecutor.Builder} so that heavy
+ * commands do not compete with others. A command chooses its executor through
+ * {@link RegisterCommand#executor()}.
+ */
+public interface AsyncCommandExecutor {
+
+    /**
+     * Gets the name of this executor.
+     * 
+     * @return The executor name
+     */
+    String getName();
+
+    /**
+     * Gets the maximum number of threads used by this executor.
+     * 
+     * @return The maximum number of threads
+     */
+    int getThreads();
+
+    /**
+     * Gets the maximum number of commands that may wait in the queue of this
+     * executor.
+     * 
+     * @return The maximum queue size
+     */
+    int getQueueSize();
+
+    /**
+     * Gets the {@link RejectionPolicy} of this executor.
+     * 
+     * @return The rejection policy
+     */
+    RejectionPolicy getRejectionPolicy();
+
+    /**
+     * Gets if this executor runs commands on virtual threads. This will always
+     * be false if the running JVM does not support virtual threads.
+     * 
+     * @return If this executor uses virtual threads
+     */
+    boolean isVirtual();
+
+    /**
+     * Gets the number of commands currently waiting in the queue.
+     * 
+     * @return The queue depth
+     */
+    int getQueueDepth();
+
+    /**
+     * Gets the number of commands currently being executed.
+     * 
+     * @return The number of active commands
+     */
+    int getActiveCount();
+
+    /**
+     * Gets the total number of commands that have finished executing.
+     * 
+     * @return The number of completed commands
+     */
+    long getCompletedCount();
+
+    /**
+     * Gets the total number of commands that were rejected because the queue
+     * was full.
+     * 
+     * @return The number of rejected commands
+     */
+    long getRejectedCount();
+
+    /**
+     * Gets the average time that commands have waited in the queue before
+     * being executed.
+     * 
+     * @param unit The unit of the returned time
+     * @return The average wait time
+     */
+    long getAverageWaitTime(TimeUnit unit);
+
+    /**
+     * Gets the longest time that a command has waited in the queue before
+     * being executed.
+     * 
+     * @param unit The unit of the returned time
+     * @return The maximum wait time
+     */
+    long getMaxWaitTime(TimeUnit unit);
+
+    public interface Builder {
+
+        /**
+         * Sets the name of the executor. This is the name specified in
+         * {@link RegisterCommand#executor()}. A name is required, and it must
+         * be unique within the {@link CommandHandler} of the plugin.
+         * 
+         * @param name The executor name
+         * @return The builder
+         */
+        Builder name(String name);
+
+        /**
+         * Sets the maximum number of threads used by the executor.
+         * 
+         * <p>The default is one thread.</p>
+         * 
+         * @param threads The maximum number of threads
+         * @return The builder
+         */
+        Builder threads(int threads);
+
+        /**
+         * Sets the maximum number of commands that may wait in the queue of
+         * the executor.
+         * 
+         * <p>The default is 100.</p>
+         * 
+         * @param size The maximum queue size
+         * @return The builder
+         */
+        Builder queueSize(int size);
+
+        /**
+         * Sets the {@link RejectionPolicy} of the executor.
+         * 
+         * <p>The default is {@link RejectionPolicy#REJECT}.</p>
+         * 
+         * @param policy The rejection policy
+         * @return The builder
+         */
+        Builder rejectionPolicy(RejectionPolicy policy);
+
+        /**
+         * Sets if the executor should run commands on virtual threads. If the
+         * running JVM does not support virtual threads, this is ignored.
+         * 
+         * @param virtual If virtual threads should be used
+         * @return The builder
+         */
+        Builder virtual(boolean virtual);
+
+        /**
+         * Builds the executor and registers it with the {@link CommandHandler}
+         * of the plugin.
+         * 
+         * @return The async command executor
+         * @throws IllegalStateException If a name was not set, or if an
+         *         executor by the same name is already registered with the
+         *         command handler
+         */
+        AsyncCommandExecutor build();
+    }
+
+    /**
+     * What an {@link AsyncCommandExecutor} should do with a command when its
+     * queue is full.
+     */
+    public enum RejectionPolicy {
+
+        /** The command will not run, and the source will receive an error. */
+        REJECT,
+
+        /**
+         * The oldest command in the queue will be rejected to make room for
+         * the new command.
+         */
+        REJECT_OLDEST,
+
+        /** The command will be ran synchronously on the calling thread. */
+        RUN_SYNC;
+    }
+}
@@ -25,13 +25,12 @@
 
 package com.xtra.api.command.base;
 
-import java.lang.reflect.ParameterizedType;
-
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.args.CommandContext;
 
+import com.google.common.reflect.TypeToken;
 import com.xtra.api.command.Command;
 import com.xtra.api.util.command.CommandBaseExecutor;
 
@@ -53,14 +52,31 @@ public abstract class CommandBase<T extends CommandSource> implements Command {
     // NOTE: this is overridden by the implementation
     private static CommandBaseExecutor BASE = null;
 
+    // Resolved once when the command object is created, so no reflection is
+    // done while the command is executing
+    private final Class<?> targetSource = resolveTargetSource(getClass());
+
     public abstract CommandResult executeCommand(T src, CommandContext args) throws Exception;
 
     public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
-        // Get the generic type
-        @SuppressWarnings("rawtypes")
-        Class<?> o = ((Class) ((ParameterizedType) getClass()
-                .getGenericSuperclass()).getActualTypeArguments()[0]);
         // Let the implementation handle the rest of the logic
-        return BASE.execute(this, o, src, args);
+        return BASE.execute(this, this.targetSource, src, args);
+    }
+
+    /**
+     * Gets the {@link CommandSource} type specified in the generic of this
+     * command.
+     * 
+     * @return The target command source type
+     */
+    public final Class<?> getTargetSource() {
+        return this.targetSource;
+    }
+
+    private static Class<?> resolveTargetSource(Class<?> clazz) {
+        // Resolve the generic against the concrete class, so type variables of
+        // any intermediate base classes are followed. A generic that cannot be
+        // resolved, such as a raw type, falls back to the variable's bound.
+        return TypeToken.of(clazz).resolveType(CommandBase.class.getTypeParameters()[0]).getRawType();
     }
 }
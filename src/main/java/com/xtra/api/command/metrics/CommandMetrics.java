@@ -0,0 +1,105 @@
+/**
+ * This file is part of XtraAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2016 - 2016 XtraStudio <https://github.com/XtraStudio>
+ * Copyright (c) Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xtra.api.command.metrics;
+
+import org.spongepowered.api.command.CommandResult;
+
+import com.xtra.api.command.Command;
+import com.xtra.api.command.runnable.CommandPhase;
+import com.xtra.api.command.runnable.CommandRateLimiter;
+import com.xtra.api.command.runnable.CommandRunnable;
+
+/**
+ * Execution statistics of a single {@link Command}, recorded by XtraCore while
+ * the command is executing. Recording is lock-free, and the values here may be
+ * read from any thread while the command is still being used.
+ */
+public interface CommandMetrics {
+
+    /**
+     * Gets the class of the command these metrics are for.
+     * 
+     * @return The command class
+     */
+    Class<? extends Command> getCommandClass();
+
+    /**
+     * Gets the number of times the command has been executed.
+     * 
+     * @return The invocation count
+     */
+    long getInvocationCount();
+
+    /**
+     * Gets the number of times the command has failed, either by throwing an
+     * exception or by returning a {@link CommandResult} with a success count
+     * of zero. Commands that were stopped by a {@link CommandRunnable} are not
+     * counted here, see {@link #getStoppedCount()}.
+     * 
+     * @return The failure count
+     */
+    long getFailureCount();
+
+    /**
+     * Gets the number of times the command was stopped by a
+     * {@link CommandRunnable} before it was executed, such as by a
+     * {@link CommandRateLimiter}. This is counted regardless of the
+     * {@link CommandResult} the runnable stopped the command with.
+     * 
+     * @return The stopped count
+     */
+    long getStoppedCount();
+
+    /**
+     * Gets the {@link CommandTimer} for the whole execution of the command,
+     * including all of its {@link CommandRunnable}s.
+     * 
+     * @return The total command timer
+     */
+    CommandTimer getTotalTimer();
+
+    /**
+     * Gets the {@link CommandTimer} for only the command itself, excluding
+     * any {@link CommandRunnable}s.
+     * 
+     * @return The execution command timer
+     */
+    CommandTimer getExecutionTimer();
+
+    /**
+     * Gets the {@link CommandTimer} for the {@link CommandRunnable}s of the
+     * specified {@link CommandPhase}.
+     * 
+     * @param phase The command phase
+     * @return The command timer of the phase
+     */
+    CommandTimer getPhaseTimer(CommandPhase phase);
+
+    /**
+     * Resets all of the counts and timers of these metrics.
+     */
+    void reset();
+}
@@ -0,0 +1,87 @@
+/**
+ * This file is part of XtraAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2016 - 2016 XtraStudio <https://github.com/XtraStudio>
+ * Copyright (c) Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xtra.api.command.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A latency histogram for a part of a command's execution. See
+ * {@link CommandMetrics}.
+ */
+public interface CommandTimer {
+
+    /**
+     * Gets the number of times that have been recorded.
+     * 
+     * @return The recorded count
+     */
+    long getCount();
+
+    /**
+     * Gets the time at the specified percentile of all recorded times.
+     * 
+     * @param percentile The percentile, from 0 to 100
+     * @param unit The unit of the returned time
+     * @return The time at the percentile, or zero if nothing has been recorded
+     */
+    long getPercentile(double percentile, TimeUnit unit);
+
+    /**
+     * Gets the median (50th percentile) of all recorded times.
+     * 
+     * @param unit The unit of the returned time
+     * @return The median time
+     */
+    default long getMedian(TimeUnit unit) {
+        return getPercentile(50, unit);
+    }
+
+    /**
+     * Gets the 99th percentile of all recorded times.
+     * 
+     * @param unit The unit of the returned time
+     * @return The 99th percentile time
+     */
+    default long get99thPercentile(TimeUnit unit) {
+        return getPercentile(99, unit);
+    }
+
+    /**
+     * Gets the longest recorded time.
+     * 
+     * @param unit The unit of the returned time
+     * @return The maximum time, or zero if nothing has been recorded
+     */
+    long getMax(TimeUnit unit);
+
+    /**
+     * Gets the average of all recorded times.
+     * 
+     * @param unit The unit of the returned time
+     * @return The mean time, or zero if nothing has been recorded
+     */
+    long getMean(TimeUnit unit);
+}
@@ -0,0 +1,218 @@
+/**
+ * This file is part of XtraAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2016 - 2016 XtraStudio <https://github.com/XtraStudio>
+ * Copyright (c) Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xtra.api.command.runnable;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.text.Text;
+
+import com.xtra.api.command.Command;
+
+/**
+ * A built-in {@link CommandRunnable} that limits how often a
+ * {@link CommandSource} may execute commands. Add it to a
+ * {@link CommandRunnableHandler} like any other runnable.
+ * 
+ * <p>Limits are token buckets: each use of a command takes a token, and
+ * tokens are refilled over time up to a capacity. A plain cooldown is a bucket
+ * with a capacity of one. Sources that have not used a command for longer than
+ * it takes to refill their bucket are evicted automatically, so idle sources
+ * do not use any memory. Checking a limit does not allocate.</p>
+ * 
+ * <p>This runs during {@link CommandPhase#START}. The limiter uses the command
+ * passed to {@link #run(Command, CommandSource, CommandContext)} to tell
+ * commands apart, so a single limiter may be added to several commands while
+ * still keeping separate limits for each of them.</p>
+ */
+public interface CommandRateLimiter extends CommandRunnable {
+
+    /**
+     * A rate limiter cannot tell commands apart without the command being
+     * executed, so this always throws. XtraCore only ever calls
+     * {@link #run(Command, CommandSource, CommandContext)}.
+     * 
+     * @throws UnsupportedOperationException Always
+     */
+    default CommandRunnableResult run(CommandSource source, CommandContext args) {
+        throw new UnsupportedOperationException("A rate limiter must be ran with the command being executed");
+    }
+
+    /**
+     * Checks the limit of the specified source for the specified command, and
+     * stops the command if the source is limited.
+     * 
+     * @param command The command being executed
+     * @param source The command source that executed the command
+     * @param args The specified arguments for the command
+     * @return {@link CommandRunnableResult#stop()} if the source is limited,
+     *         otherwise {@link CommandRunnableResult#keepRunning()}
+     */
+    CommandRunnableResult run(Command command, CommandSource source, CommandContext args);
+
+    /**
+     * Gets the {@link Scope} of this rate limiter.
+     * 
+     * @return The scope
+     */
+    Scope getScope();
+
+    /**
+     * Gets the time until the specified source may next execute the specified
+     * command.
+     * 
+     * @param source The command source
+     * @param clazz The command class
+     * @param unit The unit of the returned time
+     * @return The remaining time, or zero if the source is not limited
+     */
+    long getRemaining(CommandSource source, Class<? extends Command> clazz, TimeUnit unit);
+
+    /**
+     * Resets all limits of the specified source.
+     * 
+     * @param source The command source
+     */
+    void reset(CommandSource source);
+
+    /**
+     * Resets all limits of all sources.
+     */
+    void resetAll();
+
+    public interface Builder {
+
+        /**
+         * Sets a cooldown between each use of a command. This replaces any
+         * default limit that was set before.
+         * 
+         * @param time The cooldown time
+         * @param unit The unit of the time
+         * @return The builder
+         */
+        default Builder cooldown(long time, TimeUnit unit) {
+            return tokenBucket(1, time, unit);
+        }
+
+        /**
+         * Sets a token bucket limit, where a source may use a command up to
+         * the capacity at once, and one use is refilled every refill time.
+         * This replaces any default limit that was set before.
+         * 
+         * @param capacity The capacity of the bucket
+         * @param refillTime The time to refill one use
+         * @param unit The unit of the refill time
+         * @return The builder
+         */
+        Builder tokenBucket(int capacity, long refillTime, TimeUnit unit);
+
+        /**
+         * Sets a cooldown for sources that have the specified permission,
+         * used instead of the default limit. If a source has multiple of these
+         * permissions, the limit added first is used. Setting a limit for a
+         * permission that already has one replaces it, keeping its original
+         * position.
+         * 
+         * @param permission The permission of the group
+         * @param time The cooldown time
+         * @param unit The unit of the time
+         * @return The builder
+         */
+        default Builder cooldown(String permission, long time, TimeUnit unit) {
+            return tokenBucket(permission, 1, time, unit);
+        }
+
+        /**
+         * Sets a token bucket limit for sources that have the specified
+         * permission, used instead of the default limit. If a source has
+         * multiple of these permissions, the limit added first is used.
+         * Setting a limit for a permission that already has one replaces it,
+         * keeping its original position.
+         * 
+         * @param permission The permission of the group
+         * @param capacity The capacity of the bucket
+         * @param refillTime The time to refill one use
+         * @param unit The unit of the refill time
+         * @return The builder
+         */
+        Builder tokenBucket(String permission, int capacity, long refillTime, TimeUnit unit);
+
+        /**
+         * Sets the {@link Scope} of the rate limiter.
+         * 
+         * <p>The default is {@link Scope#SOURCE_AND_COMMAND}.</p>
+         * 
+         * @param scope The scope
+         * @return The builder
+         */
+        Builder scope(Scope scope);
+
+        /**
+         * Sets a permission that allows a source to bypass the rate limiter.
+         * 
+         * @param permission The bypass permission
+         * @return The builder
+         */
+        Builder bypassPermission(@Nullable String permission);
+
+        /**
+         * Sets the message sent to a source when it is limited. If this is not
+         * set, a default message with the remaining time is sent.
+         * 
+         * @param message The message
+         * @return The builder
+         */
+        Builder message(@Nullable Text message);
+
+        /**
+         * Builds the rate limiter.
+         * 
+         * @return The command rate limiter
+         * @throws IllegalStateException If a default limit was not set through
+         *         {@link #cooldown(long, TimeUnit)} or
+         *         {@link #tokenBucket(int, long, TimeUnit)}
+         */
+        CommandRateLimiter build();
+    }
+
+    /**
+     * What a {@link CommandRateLimiter} keeps separate limits for.
+     */
+    public enum Scope {
+
+        /** Each source has one limit shared by all commands. */
+        SOURCE,
+
+        /** Each source has a separate limit for every command. */
+        SOURCE_AND_COMMAND,
+
+        /** Every command has one limit shared by all sources. */
+        COMMAND;
+    }
+}
@@ -28,6 +28,8 @@ package com.xtra.api.command.runnable;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.args.CommandContext;
 
+import com.xtra.api.command.Command;
+
 /**
  * Indicates that a piece of code will be ran sometime during a command's
  * execution, such as before or after execution.
@@ -49,4 +51,20 @@ public interface CommandRunnable {
      *         {@link CommandRunnableResult} for more information.
      */
     CommandRunnableResult run(CommandSource source, CommandContext args);
+
+    /**
+     * Runs this runnable for the specified {@link Command}. This is what
+     * XtraCore calls when executing a command, and by default it simply calls
+     * {@link #run(CommandSource, CommandContext)}. Override this if the
+     * runnable needs to know which command is being executed, such as when it
+     * has been added to several commands.
+     * 
+     * @param command The command being executed
+     * @param source The command source that executed the command
+     * @param args The specified arguments for the command
+     * @return A result for the execution of this {@link CommandRunnable}
+     */
+    default CommandRunnableResult run(Command command, CommandSource source, CommandContext args) {
+        return run(source, args);
+    }
 }
@@ -35,6 +35,11 @@ import com.xtra.api.plugin.XtraCorePluginContainer;
  * along with a {@link CommandHandler}, and thusly any
  * {@link XtraCorePluginContainer} that has a {@link CommandHandler}, also has a
  * corresponding runnable handler.
+ * 
+ * <p>The runnables of each command are compiled into a
+ * {@link CommandRunnablePipeline} whenever runnables are added or removed, so
+ * the ordering of runnables is never worked out while a command is
+ * executing.</p>
  */
 public interface CommandRunnableHandler {
 
@@ -82,4 +87,16 @@ public interface CommandRunnableHandler {
      * @param clazz The class to remove runnables from
      */
     void removeRunnables(Class<? extends Command> clazz);
+
+    /**
+     * Gets the {@link CommandRunnablePipeline} for the specified command class.
+     * The returned pipeline is immutable; adding or removing runnables for the
+     * command will swap in a new pipeline rather than modifying this one.
+     * 
+     * @param clazz The command class
+     * @return The command runnable pipeline, or
+     *         {@link CommandRunnablePipeline#EMPTY} if the command does not have
+     *         any corresponding command runnables
+     */
+    CommandRunnablePipeline getPipeline(Class<? extends Command> clazz);
 }
@@ -0,0 +1,239 @@
+/**
+ * This file is part of XtraAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2016 - 2016 XtraStudio <https://github.com/XtraStudio>
+ * Copyright (c) Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xtra.api.command.runnable;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+
+import com.xtra.api.command.Command;
+import com.xtra.api.command.annotation.RunAt;
+
+/**
+ * An immutable, pre-sorted collection of the {@link CommandRunnable}s for a
+ * single command. Runnables are grouped by their {@link CommandPhase} and
+ * ordered by their {@link RunAt#priority()} when the pipeline is created, so
+ * running a phase is a plain iteration over an array.
+ * 
+ * <p>A pipeline is never modified. Adding or removing a runnable creates a new
+ * pipeline, which the {@link CommandRunnableHandler} swaps in for the command.
+ * This means a pipeline may be ran from any thread without locking.</p>
+ */
+public final class CommandRunnablePipeline {
+
+    private static final CommandPhase[] PHASES = CommandPhase.values();
+
+    /**
+     * A pipeline that does not contain any {@link CommandRunnable}s.
+     */
+    public static final CommandRunnablePipeline EMPTY = new CommandRunnablePipeline(new Entry[0]);
+
+    // Sorted by phase and then by priority, equal priorities keep the order
+    // they were added in
+    private final Entry[] entries;
+    private final CommandRunnable[][] phases;
+
+    private CommandRunnablePipeline(Entry[] entries) {
+        this.entries = entries;
+        this.phases = new CommandRunnable[PHASES.length][];
+        int index = 0;
+        for (CommandPhase phase : PHASES) {
+            int start = index;
+            while (index < entries.length && entries[index].phase == phase) {
+                index++;
+            }
+            CommandRunnable[] runnables = new CommandRunnable[index - start];
+            for (int i = start; i < index; i++) {
+                runnables[i - start] = entries[i].runnable;
+            }
+            this.phases[phase.ordinal()] = runnables;
+        }
+    }
+
+    /**
+     * Creates a pipeline containing the specified {@link CommandRunnable}s.
+     * 
+     * @param runnables The runnables to add to the pipeline
+     * @return The pipeline
+     */
+    public static CommandRunnablePipeline of(CommandRunnable... runnables) {
+        CommandRunnablePipeline pipeline = EMPTY;
+        for (CommandRunnable runnable : runnables) {
+            pipeline = pipeline.with(runnable);
+        }
+        return pipeline;
+    }
+
+    /**
+     * Creates a new pipeline with the specified {@link CommandRunnable} added
+     * to it. This pipeline is left unchanged.
+     * 
+     * @param runnable The runnable to add
+     * @return The new pipeline
+     */
+    public CommandRunnablePipeline with(CommandRunnable runnable) {
+        Entry entry = new Entry(runnable);
+        // Insert after every entry that comes before or is equal to this one
+        int index = this.entries.length;
+        while (index > 0 && entry.compareTo(this.entries[index - 1]) < 0) {
+            index--;
+        }
+        Entry[] entries = new Entry[this.entries.length + 1];
+        System.arraycopy(this.entries, 0, entries, 0, index);
+        entries[index] = entry;
+        System.arraycopy(this.entries, index, entries, index + 1, this.entries.length - index);
+        return new CommandRunnablePipeline(entries);
+    }
+
+    /**
+     * Creates a new pipeline with the specified {@link CommandRunnable}
+     * removed from it. This pipeline is left unchanged.
+     * 
+     * @param runnable The runnable to remove
+     * @return The new pipeline, or this pipeline if it did not contain the
+     *         runnable
+     */
+    public CommandRunnablePipeline without(CommandRunnable runnable) {
+        Entry[] entries = new Entry[this.entries.length];
+        int size = 0;
+        for (Entry entry : this.entries) {
+            if (!entry.runnable.equals(runnable)) {
+                entries[size++] = entry;
+            }
+        }
+        if (size == this.entries.length) {
+            return this;
+        }
+        return size == 0 ? EMPTY : new CommandRunnablePipeline(Arrays.copyOf(entries, size));
+    }
+
+    /**
+     * Runs all of the {@link CommandRunnable}s of the specified
+     * {@link CommandPhase} in order, until one of them indicates that the
+     * command should be stopped.
+     * 
+     * <p>As a command cannot be cancelled during {@link CommandPhase#POST},
+     * every runnable of that phase is always ran and any stop results are
+     * ignored.</p>
+     * 
+     * @param phase The phase to run
+     * @param command The command being executed
+     * @param source The command source that executed the command
+     * @param args The specified arguments for the command
+     * @return The result of the runnable that stopped the command, or
+     *         {@link CommandRunnableResult#keepRunning()} if none of them did
+     *         or if the phase is {@link CommandPhase#POST}
+     */
+    public CommandRunnableResult run(CommandPhase phase, Command command, CommandSource source, CommandContext args) {
+        if (phase == CommandPhase.POST) {
+            for (CommandRunnable runnable : this.phases[phase.ordinal()]) {
+                runnable.run(command, source, args);
+            }
+            return CommandRunnableResult.keepRunning();
+        }
+        for (CommandRunnable runnable : this.phases[phase.ordinal()]) {
+            CommandRunnableResult result = runnable.run(command, source, args);
+            if (!result.isKeepRunning()) {
+                return result;
+            }
+        }
+        return CommandRunnableResult.keepRunning();
+    }
+
+    /**
+     * Gets the {@link CommandRunnable}s of the specified {@link CommandPhase},
+     * in the order they will be ran.
+     * 
+     * @param phase The phase
+     * @return An unmodifiable list of the runnables
+     */
+    public List<CommandRunnable> getRunnables(CommandPhase phase) {
+        return Collections.unmodifiableList(Arrays.asList(this.phases[phase.ordinal()]));
+    }
+
+    /**
+     * Checks if the specified {@link CommandPhase} has any
+     * {@link CommandRunnable}s.
+     * 
+     * @param phase The phase to check
+     * @return If the phase has any command runnables
+     */
+    public boolean hasRunnables(CommandPhase phase) {
+        return this.phases[phase.ordinal()].length != 0;
+    }
+
+    /**
+     * Gets the total number of {@link CommandRunnable}s in this pipeline.
+     * 
+     * @return The number of command runnables
+     */
+    public int size() {
+        return this.entries.length;
+    }
+
+    /**
+     * Checks if this pipeline does not contain any {@link CommandRunnable}s.
+     * 
+     * @return If this pipeline is empty
+     */
+    public boolean isEmpty() {
+        return this.entries.length == 0;
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+
+        private final CommandRunnable runnable;
+        private final CommandPhase phase;
+        private final int priority;
+
+        private Entry(CommandRunnable runnable) {
+            RunAt runAt = null;
+            try {
+                Method method = runnable.getClass().getMethod("run", CommandSource.class, CommandContext.class);
+                runAt = method.getAnnotation(RunAt.class);
+                if (runAt == null) {
+                    // The annotation may be on the method that takes the command
+                    method = runnable.getClass().getMethod("run", Command.class, CommandSource.class, CommandContext.class);
+                    runAt = method.getAnnotation(RunAt.class);
+                }
+            } catch (NoSuchMethodException e) {
+                // Not possible, every runnable has both of these methods
+            }
+            this.runnable = runnable;
+            this.phase = runAt == null ? CommandPhase.START : runAt.phase();
+            this.priority = runAt == null ? 1000 : runAt.priority();
+        }
+
+        public int compareTo(Entry other) {
+            int compare = this.phase.compareTo(other.phase);
+            return compare != 0 ? compare : Integer.compare(this.priority, other.priority);
+        }
+    }
+}
@@ -25,6 +25,8 @@
 
 package com.xtra.api.command.runnable;
 
+import java.util.Objects;
+
 import org.spongepowered.api.command.CommandResult;
 
 import com.xtra.api.command.Command;
@@ -34,13 +36,22 @@ import com.xtra.api.command.Command;
  * types, {@link CommandRunnableResult#keepRunning()} and
  * {@link CommandRunnableResult#stop()}. See the JavaDocs of those methods for
  * more information.
+ * 
+ * <p>Results are immutable, so the same result may be returned any number of
+ * times. {@link CommandRunnableResult#keepRunning()},
+ * {@link CommandRunnableResult#stop()} and
+ * {@link CommandRunnableResult#stopSuccess()} always return shared instances.
+ * If a runnable stops commands with its own {@link CommandResult}, it is
+ * recommended to create that result once and store it, rather than calling
+ * {@link CommandRunnableResult#stop(CommandResult)} on every run.</p>
  */
 public class CommandRunnableResult {
 
-    private CommandResult result;
+    private static final CommandRunnableResult KEEP_RUNNING = new CommandRunnableResult(null);
+    private static final CommandRunnableResult STOP = new CommandRunnableResult(CommandResult.empty());
+    private static final CommandRunnableResult STOP_SUCCESS = new CommandRunnableResult(CommandResult.success());
 
-    private CommandRunnableResult() {
-    }
+    private final CommandResult result;
 
     private CommandRunnableResult(CommandResult result) {
         this.result = result;
@@ -53,7 +64,7 @@ public class CommandRunnableResult {
      * @return The command runnable result
      */
     public static CommandRunnableResult keepRunning() {
-        return new CommandRunnableResult();
+        return KEEP_RUNNING;
     }
 
     /**
@@ -64,20 +75,49 @@ public class CommandRunnableResult {
      * @return The command runnable result
      */
     public static CommandRunnableResult stop() {
-        return new CommandRunnableResult(CommandResult.empty());
+        return STOP;
+    }
+
+    /**
+     * Indicates that the {@link Command} should be stopped and should no longer
+     * continue execution, with a {@link CommandResult} of
+     * {@link CommandResult#success()}.
+     * 
+     * @return The command runnable result
+     */
+    public static CommandRunnableResult stopSuccess() {
+        return STOP_SUCCESS;
     }
 
     /**
      * Indicates that the {@link Command} should be stopped and should no longer
      * continue execution.
      * 
+     * <p>If the specified result is {@link CommandResult#empty()} or
+     * {@link CommandResult#success()}, a shared instance is returned.</p>
+     * 
      * @param result The command result to return for the command
      * @return The command runnable result
      */
     public static CommandRunnableResult stop(CommandResult result) {
+        Objects.requireNonNull(result, "result");
+        if (result == STOP.result) {
+            return STOP;
+        } else if (result == STOP_SUCCESS.result) {
+            return STOP_SUCCESS;
+        }
         return new CommandRunnableResult(result);
     }
 
+    /**
+     * Gets if the {@link Command} should keep running after this result.
+     * 
+     * @return If the command should keep running
+     */
+    public boolean isKeepRunning() {
+        return this.result == null;
+    }
+
     public CommandResult getResult() {
         return result;
     }
@@ -32,6 +32,11 @@ import com.xtra.api.command.Command;
 /**
  * Allows the getting and setting of a {@link CommandState} on a
  * {@link Command}.
+ * 
+ * <p>States are stored in a table indexed by the command's id, and changes are
+ * published atomically. Changing the state of several commands at once through
+ * {@link #setStates(CommandState, Class...)} is seen by other threads as a
+ * single change.</p>
  */
 public interface CommandStateHandler {
 
@@ -51,4 +56,32 @@ public interface CommandStateHandler {
      *         could not be found
      */
     Optional<CommandState> getState(Class<? extends Command> clazz);
+
+    /**
+     * Sets the {@link CommandState} for all of the specified commands as a
+     * single atomic change.
+     * 
+     * @param state The new state of the commands
+     * @param classes The classes of the commands
+     */
+    @SuppressWarnings("unchecked")
+    void setStates(CommandState state, Class<? extends Command>... classes);
+
+    /**
+     * Sets the {@link CommandState} for all commands of this handler as a
+     * single atomic change.
+     * 
+     * @param state The new state of the commands
+     */
+    void setStateForAllCommands(CommandState state);
+
+    /**
+     * Checks if the specified command is {@link CommandState#ENABLED}. Unlike
+     * {@link #getState(Class)}, this does not allocate.
+     * 
+     * @param clazz The class of the command
+     * @return If the command is enabled, or false if the command could not be
+     *         found
+     */
+    boolean isEnabled(Class<? extends Command> clazz);
 }
@@ -25,6 +25,9 @@
 
 package com.xtra.api.config;
 
+import java.util.concurrent.CompletableFuture;
+
+import com.xtra.api.config.annotation.CacheSnapshot;
 import com.xtra.api.config.base.ConfigBase;
 
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
@@ -43,20 +46,111 @@ public interface Config {
     void init();
 
     /**
-     * Loads the root node.
+     * Loads the root node. If this config has the {@link CacheSnapshot}
+     * annotation and the file has not changed, the root node is read from the
+     * binary snapshot instead.
      */
     void load();
 
     /**
-     * Saves the root node.
+     * Saves the root node. The file is written to a temporary file first and
+     * then moved into place, so the file is never left partially written.
+     * 
+     * <p>The whole root node is always written, whether or not it has been
+     * marked as changed. See {@link #saveIfDirty()} for skipping unchanged
+     * saves.</p>
      */
     void save();
 
+    /**
+     * Saves the root node only if it has been marked as changed, or if the
+     * file is missing. Otherwise nothing is written. In particular, a file
+     * that was modified outside of XtraCore is never overwritten by this
+     * method unless the root node has been marked as changed.
+     * 
+     * <p>If only some paths were marked as changed and the file has not been
+     * modified since it was last loaded or saved, only the changed subtrees
+     * are re-serialized, and the rest of the file's contents are reused.
+     * Otherwise the whole root node is re-serialized. Either way, the whole
+     * file is replaced as described in {@link #save()}.</p>
+     * 
+     * @see #markDirty(Object...)
+     */
+    void saveIfDirty();
+
+    /**
+     * Loads the root node on the XtraCore I/O executor, without blocking the
+     * calling thread.
+     * 
+     * <p>The file is parsed into a new root node, which then replaces the
+     * current root node in a single volatile write. Any thread calling
+     * {@link #rootNode()} after the future completes sees the fully loaded
+     * node. Nodes obtained from {@link #rootNode()} before then are not
+     * updated, and still hold the old values.</p>
+     * 
+     * @return A future that completes once the root node has been loaded
+     */
+    CompletableFuture<Void> loadAsync();
+
+    /**
+     * Saves the root node on the XtraCore I/O executor, without blocking the
+     * calling thread.
+     * 
+     * <p>The root node is copied on the calling thread when this is called,
+     * and only the copy is written on the I/O executor. The root node may
+     * therefore be changed again straight away without affecting the save.
+     * Saves requested shortly after one another are collapsed into a single
+     * write of the most recent copy, in which case the returned futures
+     * complete together once that write has finished.</p>
+     * 
+     * <p>Pending asynchronous saves are ordered with the other operations of
+     * this config. {@link #save()} and {@link #saveIfDirty()} supersede any
+     * pending asynchronous save, which is discarded, and its futures complete
+     * once the synchronous write has finished. A write that is already in
+     * progress is waited for first. {@link #load()} and {@link #loadAsync()}
+     * flush any pending asynchronous save before reading the file, so they
+     * never read a file older than a requested save. All pending saves are
+     * flushed when the plugin is disabled and when the server stops.</p>
+     * 
+     * @return A future that completes once the root node has been saved
+     * @see #save()
+     */
+    CompletableFuture<Void> saveAsync();
+
     /**
      * Populates this config with all of the default values.
      */
     void populate();
 
+    /**
+     * Gets if the root node has been marked as changed since it was last
+     * loaded or saved.
+     * 
+     * <p>Changes made directly to the nodes returned by {@link #rootNode()}
+     * cannot be detected, as configuration nodes do not report changes. The
+     * root node is only marked as changed through {@link #markDirty(Object...)}
+     * or by setting a {@link ConfigValue}.</p>
+     * 
+     * <p>The mark is cleared when the root node is loaded, and when
+     * {@link #save()} or {@link #saveIfDirty()} has finished writing. For
+     * {@link #saveAsync()} it is cleared when the root node is copied, so that
+     * changes made while the write is pending are tracked for the next save.
+     * If an asynchronous write fails, the root node is marked as changed
+     * again.</p>
+     * 
+     * @return If the root node has been marked as changed
+     */
+    boolean isDirty();
+
+    /**
+     * Marks the node at the specified path as changed, so that it is written
+     * by the next {@link #saveIfDirty()}. Specifying no path marks the whole
+     * root node as changed.
+     * 
+     * @param path The path of the changed node
+     */
+    void markDirty(Object... path);
+
     /**
      * Gets the configuration loader.
      * 
@@ -26,9 +26,15 @@
 package com.xtra.api.config;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import com.xtra.api.config.annotation.CacheSnapshot;
+import com.xtra.api.config.annotation.DoNotReload;
 import com.xtra.api.config.annotation.RegisterConfig;
+import com.xtra.api.event.XtraCoreConfigReloadedEvent;
 import com.xtra.api.plugin.XtraCorePluginContainer;
 
 /**
@@ -65,4 +71,86 @@ public interface ConfigHandler {
      * @return All of the configs for this handler
      */
     Collection<Config> getConfigs();
+
+    /**
+     * Sets if the config files of this handler should be watched for changes.
+     * While watching, a config is reloaded shortly after its file changes, and
+     * an {@link XtraCoreConfigReloadedEvent} is fired. Several writes to a
+     * file in quick succession will only cause a single reload. Configs with
+     * the {@link DoNotReload} annotation are never reloaded.
+     * 
+     * <p>Only changes made outside of XtraCore cause a reload. Writes made by
+     * XtraCore itself, such as saving a {@link Config} or writing its
+     * {@link CacheSnapshot}, are ignored, as are any files that do not belong
+     * to a registered config, including the temporary files used while
+     * saving.</p>
+     * 
+     * <p>Changed files are parsed off the main thread. The new root node is
+     * then published, and the event fired, on the main server thread.</p>
+     * 
+     * <p>A config whose root node has unsaved changes, as per
+     * {@link Config#isDirty()}, is not reloaded, so changes made through
+     * {@link Config#markDirty(Object...)} or a {@link ConfigValue} are never
+     * lost. Its file is reloaded on the next change after the config has been
+     * saved.</p>
+     * 
+     * <p>Watching is disabled by default.</p>
+     * 
+     * @param watching If the config files should be watched
+     */
+    void setWatching(boolean watching);
+
+    /**
+     * Gets if the config files of this handler are being watched for changes.
+     * 
+     * @return If the config files are being watched
+     * @see #setWatching(boolean)
+     */
+    boolean isWatching();
+
+    /**
+     * Reloads only the configs of this handler whose files have changed since
+     * they were last loaded or saved. Configs with the {@link DoNotReload}
+     * annotation are skipped, as are configs whose root node has unsaved
+     * changes, as per {@link Config#isDirty()}.
+     * 
+     * <p>The configs are reloaded on the calling thread, after which an
+     * {@link XtraCoreConfigReloadedEvent} is fired on the calling thread for
+     * each config that was reloaded.</p>
+     * 
+     * @return The configs that were reloaded
+     */
+    Collection<Config> reloadChanged();
+
+    /**
+     * Loads all of the configs of this handler at once. The config files are
+     * parsed in parallel, and the new root nodes are only published once every
+     * file has been parsed, so the configs are never seen partially loaded.
+     * Configs that use the shared config root directory are loaded as part of
+     * the same pass.
+     * 
+     * <p>The new root nodes are published on the main server thread, and the
+     * returned future completes on that thread once they have been
+     * published.</p>
+     * 
+     * <p>If any file fails to be read or parsed, nothing is published: every
+     * config keeps its previous root node and load time, and the future
+     * completes exceptionally with the first failure, with any further
+     * failures added as suppressed exceptions.</p>
+     * 
+     * <p>This is how configs are loaded when the plugin starts, after which
+     * the load time of each config is written to the plugin's logger.</p>
+     * 
+     * @return A future that completes once all of the configs have loaded
+     */
+    CompletableFuture<Void> loadAll();
+
+    /**
+     * Gets how long each config of this handler took to parse when it was
+     * last loaded.
+     * 
+     * @param unit The unit of the returned times
+     * @return A mapping of the configs and their load times
+     */
+    Map<Config, Long> getLoadTimes(TimeUnit unit);
 }
@@ -0,0 +1,80 @@
+/**
+ * This file is part of XtraAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2016 - 2016 XtraStudio <https://github.com/XtraStudio>
+ * Copyright (c) Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xtra.api.config;
+
+import com.google.common.reflect.TypeToken;
+import com.xtra.api.config.base.ConfigBase;
+
+/**
+ * A typed value of a {@link Config}, bound to a single path of the root node.
+ * Bound values are created through {@link ConfigBase}.
+ * 
+ * <p>The path is resolved and the value converted only when the config is
+ * loaded or reloaded, after which the value is published atomically. Reading
+ * the value never walks the node tree, so it is safe to use in frequently ran
+ * code.</p>
+ * 
+ * @param <T> The type of the value
+ */
+public interface ConfigValue<T> {
+
+    /**
+     * Gets the current value.
+     * 
+     * @return The value, or the default value if the path did not hold a
+     *         value of the correct type when the config was last loaded
+     */
+    T get();
+
+    /**
+     * Sets the value, both here and in the root node of the config. The
+     * config is marked as changed, but is not saved.
+     * 
+     * @param value The new value
+     */
+    void set(T value);
+
+    /**
+     * Gets the default value.
+     * 
+     * @return The default value
+     */
+    T getDefault();
+
+    /**
+     * Gets the type of the value.
+     * 
+     * @return The value type
+     */
+    TypeToken<T> getType();
+
+    /**
+     * Gets the path of the value in the root node.
+     * 
+     * @return The node path
+     */
+    Object[] getPath();
+}
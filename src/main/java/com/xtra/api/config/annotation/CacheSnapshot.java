@@ -0,0 +1,57 @@
+/**
+ * This file is part of XtraAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2016 - 2016 XtraStudio <https://github.com/XtraStudio>
+ * Copyright (c) Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xtra.api.config.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.xtra.api.config.Config;
+import com.xtra.api.config.base.ConfigBase;
+
+/**
+ * Signifies that a binary snapshot of this configuration file should be kept
+ * next to the file. When the {@link Config} is loaded, the snapshot is read
+ * instead of parsing the file if all of the following match the snapshot:
+ * 
+ * <ul>
+ * <li>The file's size, modification time and hash</li>
+ * <li>The config's options, such as its serializers, header and map factory,
+ * as set through {@link ConfigBase#setOptions()}</li>
+ * <li>The version of the snapshot format written by XtraCore</li>
+ * </ul>
+ * 
+ * <p>If anything does not match, the file is parsed as normal and the
+ * snapshot is rewritten.</p>
+ * 
+ * <p>This is only recommended for large configuration files, where parsing
+ * the file is noticeably slow.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface CacheSnapshot {
+}
@@ -64,4 +64,15 @@ public interface ConfigAnnotationHelper {
      *         register config annotation was not found
      */
     boolean doesReload(Class<? extends Config> clazz);
+
+    /**
+     * Gets if a binary snapshot of the specified {@link Config} will be kept
+     * to speed up loading.
+     * 
+     * @param clazz The class to check
+     * @return If the config keeps a snapshot, or false if the register config
+     *         annotation was not found
+     * @see CacheSnapshot
+     */
+    boolean doesCacheSnapshot(Class<? extends Config> clazz);
 }
@@ -32,9 +32,12 @@ import java.lang.annotation.Target;
 
 import org.spongepowered.api.event.game.GameReloadEvent;
 
+import com.xtra.api.config.ConfigHandler;
+
 /**
  * Signifies that this configuration file should NOT be reloaded during the
- * {@link GameReloadEvent}.
+ * {@link GameReloadEvent}, or when its file changes while the
+ * {@link ConfigHandler} is watching for changes.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
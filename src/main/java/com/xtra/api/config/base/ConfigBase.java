@@ -25,7 +25,11 @@
 
 package com.xtra.api.config.base;
 
+import java.util.concurrent.CompletableFuture;
+
+import com.google.common.reflect.TypeToken;
 import com.xtra.api.config.Config;
+import com.xtra.api.config.ConfigValue;
 import com.xtra.api.util.config.ConfigExecutor;
 import com.xtra.api.util.config.ConfigStore;
 
@@ -56,6 +60,37 @@ public abstract class ConfigBase implements Config {
         return ConfigurationOptions.defaults();
     }
 
+    /**
+     * A {@link ConfigBase} specific method, this binds the value at the
+     * specified path to a typed {@link ConfigValue}. This is intended to be
+     * used when initializing fields, so that the path is only resolved when
+     * the config is loaded rather than on every read.
+     * 
+     * @param <T> The type of the value
+     * @param type The type of the value
+     * @param def The default value
+     * @param path The path of the value in the root node
+     * @return The bound config value
+     */
+    protected <T> ConfigValue<T> bind(TypeToken<T> type, T def, Object... path) {
+        return BASE.bind(this, type, def, path);
+    }
+
+    /**
+     * A {@link ConfigBase} specific method, this binds the value at the
+     * specified path to a typed {@link ConfigValue}.
+     * 
+     * @param <T> The type of the value
+     * @param type The type of the value
+     * @param def The default value
+     * @param path The path of the value in the root node
+     * @return The bound config value
+     * @see #bind(TypeToken, Object, Object...)
+     */
+    protected <T> ConfigValue<T> bind(Class<T> type, T def, Object... path) {
+        return bind(TypeToken.of(type), def, path);
+    }
+
     public void init() {
         BASE.init(this);
     }
@@ -68,6 +103,26 @@ public abstract class ConfigBase implements Config {
         BASE.save(store);
     }
 
+    public void saveIfDirty() {
+        BASE.saveIfDirty(store);
+    }
+
+    public CompletableFuture<Void> loadAsync() {
+        return BASE.loadAsync(store);
+    }
+
+    public CompletableFuture<Void> saveAsync() {
+        return BASE.saveAsync(store);
+    }
+
+    public boolean isDirty() {
+        return BASE.isDirty(store);
+    }
+
+    public void markDirty(Object... path) {
+        BASE.markDirty(store, path);
+    }
+
     public ConfigurationLoader<CommentedConfigurationNode> loader() {
         return BASE.loader(store);
     }
@@ -25,6 +25,8 @@
 
 package com.xtra.api.entity;
 
+import java.util.Collection;
+
 import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.event.cause.entity.spawn.SpawnType;
 import org.spongepowered.api.event.cause.entity.spawn.SpawnTypes;
@@ -100,7 +102,7 @@ public interface EntityHandler {
 
     /**
      * Spawns an item with the specified location, type, spawn type, and
-     * quantity.
+     * quantity. The quantity is spawned using {@link ItemSpawnMode#STACKED}.
      * 
      * @param loc The location to spawn the item in
      * @param type The item type to spawn in
@@ -108,5 +110,61 @@ public interface EntityHandler {
      * @param quantity The number to spawn in
      * @return If the item spawned successfully
      */
-    boolean spawnItem(Location<World> loc, ItemType type, SpawnType spawnType, int quantity);
+    default boolean spawnItem(Location<World> loc, ItemType type, SpawnType spawnType, int quantity) {
+        return spawnItem(loc, type, spawnType, quantity, ItemSpawnMode.STACKED);
+    }
+
+    /**
+     * Spawns an item with the specified location, type, spawn type, quantity
+     * and {@link ItemSpawnMode}. Using {@link ItemSpawnMode#COALESCE} is
+     * recommended for large quantities, as it spawns the fewest item entities.
+     * Item entities are merged into using
+     * {@link ItemSpawnMode#DEFAULT_COALESCE_RADIUS}.
+     * 
+     * @param loc The location to spawn the item in
+     * @param type The item type to spawn in
+     * @param spawnType The spawn type
+     * @param quantity The number to spawn in
+     * @param mode How the quantity is turned into item entities
+     * @return If the whole quantity was either spawned or merged into existing
+     *         item entities, even if no new item entity was spawned
+     */
+    default boolean spawnItem(Location<World> loc, ItemType type, SpawnType spawnType, int quantity, ItemSpawnMode mode) {
+        return spawnItem(loc, type, spawnType, quantity, mode, ItemSpawnMode.DEFAULT_COALESCE_RADIUS);
+    }
+
+    /**
+     * Spawns an item with the specified location, type, spawn type, quantity
+     * and {@link ItemSpawnMode}, merging into item entities within the
+     * specified radius when using {@link ItemSpawnMode#COALESCE}.
+     * 
+     * @param loc The location to spawn the item in
+     * @param type The item type to spawn in
+     * @param spawnType The spawn type
+     * @param quantity The number to spawn in
+     * @param mode How the quantity is turned into item entities
+     * @param radius The radius, in blocks, to merge into item entities within.
+     *        This is ignored for {@link ItemSpawnMode#STACKED}.
+     * @return If the whole quantity was either spawned or merged into existing
+     *         item entities, even if no new item entity was spawned
+     */
+    boolean spawnItem(Location<World> loc, ItemType type, SpawnType spawnType, int quantity, ItemSpawnMode mode, double radius);
+
+    /**
+     * Spawns all of the specified {@link SpawnRequest}s in a single pass.
+     * Requests are grouped by world and chunk, so that each chunk is only
+     * looked up once and the spawn cause is only set up once for each group.
+     * 
+     * @param requests The spawn requests
+     * @return A summary of the spawned requests
+     */
+    SpawnResult spawnAll(Collection<SpawnRequest> requests);
+
+    /**
+     * Gets the {@link SpawnQueue}, for spawning large numbers of entities or
+     * items across several ticks.
+     * 
+     * @return The spawn queue
+     */
+    SpawnQueue getSpawnQueue();
 }
@@ -0,0 +1,60 @@
+/**
+ * This file is part of XtraAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2016 - 2016 XtraStudio <https://github.com/XtraStudio>
+ * Copyright (c) Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xtra.api.entity;
+
+import org.spongepowered.api.item.ItemType;
+
+/**
+ * How a quantity of items is turned into item entities when spawning items.
+ */
+public enum ItemSpawnMode {
+
+    /**
+     * The quantity will be split into stacks of the maximum stack size of the
+     * {@link ItemType}, with one item entity spawned for each stack.
+     */
+    STACKED,
+
+    /**
+     * Like {@link #STACKED}, however the quantity will first be merged into
+     * nearby item entities that are not yet full. Only what is left over will
+     * be spawned as new item entities.
+     * 
+     * <p>An item entity is only merged into if its item stack is equal to a
+     * new stack of the {@link ItemType} in everything apart from its quantity.
+     * Stacks with a display name, enchantments, damage or any other data are
+     * never merged into. Item entities are considered nearby if they are
+     * within the coalesce radius of the spawn location, which defaults to
+     * {@link #DEFAULT_COALESCE_RADIUS}.</p>
+     */
+    COALESCE;
+
+    /**
+     * The default radius, in blocks, in which item entities are merged into
+     * when using {@link #COALESCE}.
+     */
+    public static final double DEFAULT_COALESCE_RADIUS = 1.0;
+}
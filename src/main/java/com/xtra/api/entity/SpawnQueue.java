@@ -0,0 +1,132 @@
+/**
+ * This file is part of XtraAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2016 - 2016 XtraStudio <https://github.com/XtraStudio>
+ * Copyright (c) Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xtra.api.entity;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A queue that spreads {@link SpawnRequest}s across server ticks, so that
+ * large spawns do not take up a whole tick. Each tick, pending requests are
+ * spawned in order of their {@link Priority} until either the count or the
+ * time budget for the tick has been used up. Large requests may be split
+ * across several ticks.
+ * 
+ * <p>Requests may be submitted from any thread, including asynchronous tasks.
+ * Spawning always happens on the main server thread, and the returned futures
+ * are completed on the main server thread, so any dependent actions may
+ * safely use the Sponge API.</p>
+ */
+public interface SpawnQueue {
+
+    /**
+     * Submits the specified {@link SpawnRequest} with a priority of
+     * {@link Priority#NORMAL}.
+     * 
+     * @param request The spawn request
+     * @return A future that completes on the main server thread once the
+     *         request has fully spawned
+     */
+    default CompletableFuture<SpawnResult> submit(SpawnRequest request) {
+        return submit(Collections.singleton(request), Priority.NORMAL);
+    }
+
+    /**
+     * Submits the specified {@link SpawnRequest}s with the specified
+     * {@link Priority}.
+     * 
+     * @param requests The spawn requests
+     * @param priority The priority of the requests
+     * @return A future that completes on the main server thread once all of
+     *         the requests have spawned
+     */
+    CompletableFuture<SpawnResult> submit(Collection<SpawnRequest> requests, Priority priority);
+
+    /**
+     * Gets the total quantity that is still waiting to be spawned.
+     * 
+     * @return The pending quantity
+     */
+    int getPending();
+
+    /**
+     * Gets the maximum quantity that may be spawned each tick.
+     * 
+     * @return The maximum spawns per tick
+     */
+    int getMaxSpawnsPerTick();
+
+    /**
+     * Sets the maximum quantity that may be spawned each tick.
+     * 
+     * <p>The default is 200.</p>
+     * 
+     * @param spawns The maximum spawns per tick
+     */
+    void setMaxSpawnsPerTick(int spawns);
+
+    /**
+     * Gets the maximum time that may be spent spawning each tick.
+     * 
+     * @param unit The unit of the returned time
+     * @return The maximum time per tick
+     */
+    long getMaxTimePerTick(TimeUnit unit);
+
+    /**
+     * Sets the maximum time that may be spent spawning each tick.
+     * 
+     * <p>The default is 5 milliseconds.</p>
+     * 
+     * @param time The maximum time per tick
+     * @param unit The unit of the time
+     */
+    void setMaxTimePerTick(long time, TimeUnit unit);
+
+    /**
+     * Removes all pending requests from the queue. The futures of any removed
+     * requests are completed with what had been spawned so far.
+     */
+    void clear();
+
+    /**
+     * The order in which pending requests are spawned. Requests of the same
+     * priority are spawned in the order they were submitted.
+     */
+    public enum Priority {
+
+        /** Spawned before any other requests. */
+        HIGH,
+
+        /** The default priority. */
+        NORMAL,
+
+        /** Spawned only once there are no other requests. */
+        LOW;
+    }
+}
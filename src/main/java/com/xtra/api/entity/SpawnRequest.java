@@ -0,0 +1,186 @@
+/**
+ * This file is part of XtraAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2016 - 2016 XtraStudio <https://github.com/XtraStudio>
+ * Copyright (c) Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xtra.api.entity;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.event.cause.entity.spawn.SpawnType;
+import org.spongepowered.api.event.cause.entity.spawn.SpawnTypes;
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+/**
+ * A request to spawn one or more entities or items at a location, used with
+ * {@link EntityHandler#spawnAll(Collection)}. Requests are immutable and may be
+ * reused.
+ */
+public final class SpawnRequest {
+
+    private final Location<World> location;
+    @Nullable private final EntityType entityType;
+    @Nullable private final ItemType itemType;
+    private final SpawnType spawnType;
+    private final int quantity;
+    private final ItemSpawnMode itemSpawnMode;
+
+    private SpawnRequest(Location<World> location, @Nullable EntityType entityType, @Nullable ItemType itemType, SpawnType spawnType,
+            int quantity, ItemSpawnMode itemSpawnMode) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("Quantity must be at least one, got " + quantity);
+        }
+        this.location = Objects.requireNonNull(location, "location");
+        this.entityType = entityType;
+        this.itemType = itemType;
+        this.spawnType = Objects.requireNonNull(spawnType, "spawnType");
+        this.quantity = quantity;
+        this.itemSpawnMode = Objects.requireNonNull(itemSpawnMode, "itemSpawnMode");
+    }
+
+    /**
+     * Creates a request to spawn a single entity with a spawn type of
+     * {@link SpawnTypes#PLUGIN}.
+     * 
+     * @param loc The spawn location
+     * @param type The type of the entity
+     * @return The spawn request
+     */
+    public static SpawnRequest entity(Location<World> loc, EntityType type) {
+        return entity(loc, type, SpawnTypes.PLUGIN, 1);
+    }
+
+    /**
+     * Creates a request to spawn the specified number of entities.
+     * 
+     * @param loc The spawn location
+     * @param type The type of the entities
+     * @param spawnType The spawn type
+     * @param quantity The number of entities to spawn
+     * @return The spawn request
+     */
+    public static SpawnRequest entity(Location<World> loc, EntityType type, SpawnType spawnType, int quantity) {
+        return new SpawnRequest(loc, Objects.requireNonNull(type, "type"), null, spawnType, quantity, ItemSpawnMode.STACKED);
+    }
+
+    /**
+     * Creates a request to spawn an item with the specified quantity and a
+     * spawn type of {@link SpawnTypes#PLUGIN}.
+     * 
+     * @param loc The location to spawn the item in
+     * @param type The item type to spawn in
+     * @param quantity The number to spawn in
+     * @return The spawn request
+     */
+    public static SpawnRequest item(Location<World> loc, ItemType type, int quantity) {
+        return item(loc, type, SpawnTypes.PLUGIN, quantity);
+    }
+
+    /**
+     * Creates a request to spawn an item with the specified quantity.
+     * 
+     * @param loc The location to spawn the item in
+     * @param type The item type to spawn in
+     * @param spawnType The spawn type
+     * @param quantity The number to spawn in
+     * @return The spawn request
+     * @see EntityHandler#spawnItem(Location, ItemType, SpawnType, int)
+     */
+    public static SpawnRequest item(Location<World> loc, ItemType type, SpawnType spawnType, int quantity) {
+        return item(loc, type, spawnType, quantity, ItemSpawnMode.STACKED);
+    }
+
+    /**
+     * Creates a request to spawn an item with the specified quantity and
+     * {@link ItemSpawnMode}.
+     * 
+     * @param loc The location to spawn the item in
+     * @param type The item type to spawn in
+     * @param spawnType The spawn type
+     * @param quantity The number to spawn in
+     * @param mode How the quantity is turned into item entities
+     * @return The spawn request
+     * @see EntityHandler#spawnItem(Location, ItemType, SpawnType, int,
+     *      ItemSpawnMode)
+     */
+    public static SpawnRequest item(Location<World> loc, ItemType type, SpawnType spawnType, int quantity, ItemSpawnMode mode) {
+        return new SpawnRequest(loc, null, Objects.requireNonNull(type, "type"), spawnType, quantity, mode);
+    }
+
+    public Location<World> getLocation() {
+        return this.location;
+    }
+
+    /**
+     * Gets the type of entity to spawn.
+     * 
+     * @return The entity type, or {@link Optional#empty()} if this is an item
+     *         request
+     */
+    public Optional<EntityType> getEntityType() {
+        return Optional.ofNullable(this.entityType);
+    }
+
+    /**
+     * Gets the type of item to spawn.
+     * 
+     * @return The item type, or {@link Optional#empty()} if this is an entity
+     *         request
+     */
+    public Optional<ItemType> getItemType() {
+        return Optional.ofNullable(this.itemType);
+    }
+
+    /**
+     * Gets if this is a request to spawn an item.
+     * 
+     * @return If this is an item request
+     */
+    public boolean isItem() {
+        return this.itemType != null;
+    }
+
+    public SpawnType getSpawnType() {
+        return this.spawnType;
+    }
+
+    public int getQuantity() {
+        return this.quantity;
+    }
+
+    /**
+     * Gets how the quantity of an item request is turned into item entities.
+     * This is always {@link ItemSpawnMode#STACKED} for entity requests.
+     * 
+     * @return The item spawn mode
+     */
+    public ItemSpawnMode getItemSpawnMode() {
+        return this.itemSpawnMode;
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * This file is part of XtraAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2016 - 2016 XtraStudio <https://github.com/XtraStudio>
+ * Copyright (c) Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xtra.api.entity;
+
+import java.util.Collection;
+
+/**
+ * A summary of a batch of {@link SpawnRequest}s.
+ */
+public interface SpawnResult {
+
+    /**
+     * Gets the total quantity that was requested to spawn.
+     * 
+     * @return The requested quantity
+     */
+    int getRequested();
+
+    /**
+     * Gets the total quantity that spawned successfully.
+     * 
+     * @return The spawned quantity
+     */
+    int getSpawned();
+
+    /**
+     * Gets the total quantity that failed to spawn.
+     * 
+     * @return The failed quantity
+     */
+    default int getFailed() {
+        return getRequested() - getSpawned();
+    }
+
+    /**
+     * Gets if everything that was requested spawned successfully.
+     * 
+     * @return If the spawn was successful
+     */
+    default boolean isSuccessful() {
+        return getFailed() == 0;
+    }
+
+    /**
+     * Gets the {@link SpawnRequest}s that did not fully spawn.
+     * 
+     * @return A collection of the failed requests
+     */
+    Collection<SpawnRequest> getFailedRequests();
+}
@@ -26,18 +26,30 @@
 package com.xtra.api.registry;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import com.xtra.api.command.Command;
 import com.xtra.api.command.CommandHandler;
+import com.xtra.api.command.CommandMetadata;
+import com.xtra.api.command.metrics.CommandMetrics;
 import com.xtra.api.command.runnable.CommandRunnable;
+import com.xtra.api.command.runnable.CommandRunnableHandler;
+import com.xtra.api.command.runnable.CommandRunnablePipeline;
 import com.xtra.api.command.state.CommandState;
+import com.xtra.api.command.state.CommandStateHandler;
 import com.xtra.api.plugin.XtraCorePluginContainer;
 
 /**
  * The global registry for {@link Command}s. All {@link Command}s are registered
  * through here.
+ * 
+ * <p>The registered commands are held in an immutable {@link Snapshot}. When a
+ * command is registered, a new snapshot is created and published atomically
+ * with the next version number. Reads may happen on any thread without
+ * locking, and the collections and mappings returned here are views of the
+ * current snapshot rather than copies.</p>
  */
 public interface CommandRegistry {
 
@@ -61,6 +73,35 @@ public interface CommandRegistry {
      */
     Optional<Command> getCommand(String primaryAlias);
 
+    /**
+     * Gets the specified {@link Command} from the global command registry using
+     * any of its aliases, rather than only its primary alias. Child commands
+     * follow the same format as {@link CommandHandler#getCommand(String)},
+     * however any alias of the parent and child may be used. Aliases are not
+     * case sensitive.
+     * 
+     * <p>Every alias of every registered command is kept in a trie index that
+     * is rebuilt when commands are registered. The time taken by this lookup
+     * depends only on the length of the alias, and not on the number of
+     * registered commands.</p>
+     * 
+     * @param alias The alias
+     * @return The command object, or {@link Optional#empty()} if the command
+     *         could not be found
+     */
+    Optional<Command> getCommandByAlias(String alias);
+
+    /**
+     * Gets all of the aliases in the global command registry that start with
+     * the specified prefix, sorted alphabetically. This is intended for tab
+     * completion, and uses the same alias index and format as
+     * {@link #getCommandByAlias(String)}.
+     * 
+     * @param prefix The prefix of the aliases
+     * @return An unmodifiable list of the matching aliases
+     */
+    List<String> getAliasesStartingWith(String prefix);
+
     /**
      * Gets a mapping entry of the specified {@link Command} object and its
      * corresponding {@link XtraCorePluginContainer}.
@@ -84,20 +125,51 @@ public interface CommandRegistry {
     Optional<Map.Entry<Command, XtraCorePluginContainer>> getEntry(String primaryAlias);
 
     /**
-     * Gets a collection of all of the registered commands.
+     * Gets the {@link CommandMetadata} of the specified {@link Command}. The
+     * metadata is resolved once when the command is registered.
+     * 
+     * @param clazz The class of the command
+     * @return The command metadata, or {@link Optional#empty()} if the command
+     *         could not be found
+     */
+    Optional<CommandMetadata> getMetadata(Class<? extends Command> clazz);
+
+    /**
+     * Gets a collection of all of the registered commands. This is the same as
+     * calling {@link Snapshot#getAllCommands()} on the current snapshot.
      * 
-     * @return A collection of the commands
+     * @return An unmodifiable collection of the commands
      */
     Collection<Command> getAllCommands();
 
     /**
      * Gets a mapping of all of the registered commands and their
-     * {@link XtraCorePluginContainer}s.
+     * {@link XtraCorePluginContainer}s. This is the same as calling
+     * {@link Snapshot#getAllCommandMappings()} on the current snapshot.
      * 
-     * @return A mapping of all of the commands and their containers
+     * @return An unmodifiable mapping of all of the commands and their
+     *         containers
      */
     Map<Command, XtraCorePluginContainer> getAllCommandMappings();
 
+    /**
+     * Gets the current {@link Snapshot} of the registry. If several reads need
+     * to agree with one another, they should all be made on the same
+     * snapshot.
+     * 
+     * @return The current snapshot
+     */
+    Snapshot getSnapshot();
+
+    /**
+     * Gets the version of the current {@link Snapshot}. The version increases
+     * every time the registered commands change, so this may be used to
+     * cheaply check if anything has changed since it was last read.
+     * 
+     * @return The current version
+     */
+    long getVersion();
+
     /**
      * Adds the specified {@link CommandRunnable} to be ran with the specified
      * classes using the global command registry.
@@ -125,6 +197,18 @@ public interface CommandRegistry {
      */
     void removeRunnables(Class<? extends Command> clazz);
 
+    /**
+     * Gets the {@link CommandRunnablePipeline} for the specified class using
+     * the global command registry.
+     * 
+     * @param clazz The class of the command
+     * @return The command runnable pipeline, or
+     *         {@link CommandRunnablePipeline#EMPTY} if the command does not have
+     *         any corresponding command runnables
+     * @see CommandRunnableHandler#getPipeline(Class)
+     */
+    CommandRunnablePipeline getPipeline(Class<? extends Command> clazz);
+
     /**
      * Sets the {@link CommandState} for the specified command using the global
      * command registry.
@@ -143,4 +227,112 @@ public interface CommandRegistry {
      *         could not be found
      */
     Optional<CommandState> getState(Class<? extends Command> clazz);
+
+    /**
+     * Sets the {@link CommandState} for all of the specified commands as a
+     * single atomic change using the global command registry. The commands do
+     * not need to belong to the same plugin.
+     * 
+     * @param state The new state of the commands
+     * @param classes The classes of the commands
+     * @see CommandStateHandler#setStates(CommandState, Class...)
+     */
+    @SuppressWarnings("unchecked")
+    void setStates(CommandState state, Class<? extends Command>... classes);
+
+    /**
+     * Checks if the specified command is {@link CommandState#ENABLED} using the
+     * global command registry. Unlike {@link #getState(Class)}, this does not
+     * allocate.
+     * 
+     * @param clazz The class of the command
+     * @return If the command is enabled, or false if the command could not be
+     *         found
+     */
+    boolean isEnabled(Class<? extends Command> clazz);
+
+    /**
+     * Checks if the command with the specified id is
+     * {@link CommandState#ENABLED} using the global command registry. This is a
+     * single index lookup into the state table and does not allocate.
+     * 
+     * @param commandId The id of the command
+     * @return If the command is enabled, or false if the command could not be
+     *         found
+     * @see CommandMetadata#getId()
+     */
+    boolean isEnabled(int commandId);
+
+    /**
+     * Gets the {@link CommandMetrics} for the specified command using the
+     * global command registry.
+     * 
+     * @param clazz The class of the command
+     * @return The command metrics, or {@link Optional#empty()} if the command
+     *         could not be found
+     */
+    Optional<CommandMetrics> getMetrics(Class<? extends Command> clazz);
+
+    /**
+     * Gets the {@link CommandMetrics} of all of the registered commands.
+     * 
+     * @return A collection of the metrics of all commands
+     */
+    Collection<CommandMetrics> getAllMetrics();
+
+    /**
+     * Resets the {@link CommandMetrics} of all of the registered commands.
+     */
+    void resetMetrics();
+
+    /**
+     * An immutable view of the registered {@link Command}s at a single point
+     * in time.
+     */
+    public interface Snapshot {
+
+        /**
+         * Gets the version of this snapshot.
+         * 
+         * @return The version
+         * @see CommandRegistry#getVersion()
+         */
+        long getVersion();
+
+        /**
+         * Gets the specified {@link Command} from this snapshot.
+         * 
+         * @param clazz The class of the command to get
+         * @return The command object, or {@link Optional#empty()} if the
+         *         command could not be found
+         */
+        Optional<Command> getCommand(Class<? extends Command> clazz);
+
+        /**
+         * Gets the specified {@link Command} from this snapshot using the
+         * specified primary alias. Please view
+         * {@link CommandHandler#getCommand(String)} for the specification.
+         * 
+         * @param primaryAlias The primary alias
+         * @return The command object, or {@link Optional#empty()} if the
+         *         command could not be found
+         */
+        Optional<Command> getCommand(String primaryAlias);
+
+        /**
+         * Gets a collection of all of the commands in this snapshot.
+         * 
+         * @return An unmodifiable collection of the commands
+         */
+        Collection<Command> getAllCommands();
+
+        /**
+         * Gets a mapping of all of the commands in this snapshot and their
+         * {@link XtraCorePluginContainer}s.
+         * 
+         * @return An unmodifiable mapping of all of the commands and their
+         *         containers
+         */
+        Map<Command, XtraCorePluginContainer> getAllCommandMappings();
+    }
 }
@@ -28,6 +28,7 @@ package com.xtra.api.registry;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import com.xtra.api.config.Config;
 import com.xtra.api.config.ConfigHandler;
@@ -36,6 +37,12 @@ import com.xtra.api.plugin.XtraCorePluginContainer;
 /**
  * The global registry for {@link Config}s. All {@link Config}s are registered
  * through here.
+ * 
+ * <p>The registry keeps indexes by config class, config name and
+ * {@link XtraCorePluginContainer}, which are built when configs are
+ * registered. The {@link Optional}s, entries, collections and mappings
+ * returned here are created at that time and are unmodifiable, so looking up
+ * a config does not allocate or copy.</p>
  */
 public interface ConfigRegistry {
 
@@ -59,6 +66,28 @@ public interface ConfigRegistry {
      */
     Optional<Config> getConfig(String configName);
 
+    /**
+     * Gets the config for the specified config name of the specified
+     * {@link XtraCorePluginContainer}. Unlike {@link #getConfig(String)}, this
+     * only finds configs belonging to that container.
+     * 
+     * @param container The plugin container of the config
+     * @param configName The name of the config to get
+     * @return The config object, or {@link Optional#empty()} if the config
+     *         could not be found
+     */
+    Optional<Config> getConfig(XtraCorePluginContainer container, String configName);
+
+    /**
+     * Gets a collection of all of the configs of the specified
+     * {@link XtraCorePluginContainer}.
+     * 
+     * @param container The plugin container
+     * @return An unmodifiable collection of the configs of the container, or
+     *         an empty collection if the container has no registered configs
+     */
+    Collection<Config> getConfigs(XtraCorePluginContainer container);
+
     /**
      * Gets a mapping entry of the specified config and its
      * {@link XtraCorePluginContainer}.
@@ -84,7 +113,7 @@ public interface ConfigRegistry {
     /**
      * Gets a collection of all of the registered configs.
      * 
-     * @return A collection of the configs
+     * @return An unmodifiable collection of the configs
      */
     Collection<Config> getAllConfigs();
 
@@ -92,7 +121,16 @@ public interface ConfigRegistry {
      * Gets a mapping of all of the registered configs and their
      * {@link XtraCorePluginContainer}s.
      * 
-     * @return A mapping of all of the configs and their containers
+     * @return An unmodifiable mapping of all of the configs and their
+     *         containers
      */
     Map<Config, XtraCorePluginContainer> getAllConfigMappings();
+
+    /**
+     * Passes every registered config and its {@link XtraCorePluginContainer}
+     * to the specified visitor, without copying the registry.
+     * 
+     * @param visitor The visitor
+     */
+    void forEach(BiConsumer<Config, XtraCorePluginContainer> visitor);
 }
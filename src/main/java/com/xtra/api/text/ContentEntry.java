@@ -33,6 +33,9 @@ import com.xtra.api.command.Command;
 
 /**
  * Specifies an 'entry' to the {@link HelpPaginationHandler}.
+ * 
+ * <p>The {@link Text} of an entry is built the first time it is requested,
+ * rather than when the entry is created.</p>
  */
 public interface ContentEntry {
 
@@ -26,15 +26,20 @@
 package com.xtra.api.text;
 
 import java.util.Collection;
+import java.util.List;
 
 import javax.annotation.Nullable;
 
 import org.spongepowered.api.service.pagination.PaginationList;
+import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.MessageReceiver;
 import org.spongepowered.api.text.format.TextColor;
 
 import com.xtra.api.command.Command;
+import com.xtra.api.command.state.CommandState;
 import com.xtra.api.plugin.XtraCorePluginContainer;
+import com.xtra.api.registry.CommandRegistry;
 
 /**
  * The help pagination manager for a {@link XtraCorePluginContainer}. The help
@@ -50,21 +55,64 @@ public interface HelpPaginationHandler {
     /**
      * Gets the built pagination list associated with this handler.
      * 
+     * <p>The list is built once and cached. It is only rebuilt after commands
+     * are registered or unregistered, which is detected through
+     * {@link CommandRegistry#getVersion()}, after the {@link CommandState} of
+     * a command changes, or after {@link #invalidate()} is called.</p>
+     * 
      * @return The pagination list
      */
-    default PaginationList getList() {
-        return this.getPaginationBuilder().build();
-    }
+    PaginationList getList();
+
+    /**
+     * Gets the pagination list containing only the commands that the specified
+     * {@link Subject} has permission to use. If this handler is not filtered by
+     * permission, this is the same as {@link #getList()}.
+     * 
+     * <p>Each call checks every distinct {@link Command#permission()} of this
+     * handler once against the subject, which is usually far fewer checks than
+     * there are {@link ContentEntry}s. The result of these checks is used as
+     * the key of a cache of filtered lists, so subjects with the same set of
+     * permissions share one list, and only the filtering, ordering and
+     * building of that list is done once per set. As the permissions are
+     * checked on every call, changes to a subject's permissions apply
+     * immediately. The cached lists themselves are discarded along with the
+     * unfiltered list, as described in {@link #getList()}.</p>
+     * 
+     * @param subject The subject to filter the list for
+     * @return The pagination list
+     */
+    PaginationList getList(Subject subject);
 
     /**
-     * Sends the pagination list to a message receiver.
+     * Sends the pagination list to a message receiver. If this handler is
+     * filtered by permission and the receiver is a {@link Subject}, the
+     * filtered list for the receiver is sent.
      * 
      * @param receiver The receiver of the list
      */
     default void sendList(MessageReceiver receiver) {
-        this.getPaginationBuilder().sendTo(receiver);
+        if (this.isFilteredByPermission() && receiver instanceof Subject) {
+            this.getList((Subject) receiver).sendTo(receiver);
+        } else {
+            this.getList().sendTo(receiver);
+        }
     }
 
+    /**
+     * Gets if the pagination list is filtered by the permissions of the
+     * receiver.
+     * 
+     * @return If the pagination list is filtered by permission
+     */
+    boolean isFilteredByPermission();
+
+    /**
+     * Discards the cached pagination list and {@link ContentEntry}s, so that
+     * they are rebuilt the next time they are used.
+     */
+    void invalidate();
+
     /**
      * Gets the command color for this handler.
      * 
@@ -87,15 +135,72 @@ public interface HelpPaginationHandler {
     Collection<Class<? extends Command>> getIgnoredCommands();
 
     /**
-     * Gets the {@link ContentEntry}s of the pagination list.
+     * Gets the {@link ContentEntry}s of the pagination list. Like
+     * {@link #getList()}, the entries are cached until they are invalidated.
      * 
      * @return The content entries of the pagination list
      */
     Collection<ContentEntry> getContents();
 
+    /**
+     * Gets the {@link ContentEntry}s of the commands that the specified
+     * {@link Subject} has permission to use.
+     * 
+     * @param subject The subject to filter the entries for
+     * @return The content entries of the filtered pagination list
+     * @see #getList(Subject)
+     */
+    Collection<ContentEntry> getContents(Subject subject);
+
+    /**
+     * Gets the number of {@link ContentEntry}s in the pagination list.
+     * 
+     * @return The number of content entries
+     */
+    int getContentCount();
+
+    /**
+     * Gets the number of pages in the pagination list.
+     * 
+     * @return The number of pages
+     * @see Builder#contentsPerPage(int)
+     */
+    int getPageCount();
+
+    /**
+     * Gets the {@link ContentEntry}s of a single page of the pagination list.
+     * 
+     * <p>Unlike {@link #getContents()}, this only builds the {@link Text} of
+     * the entries on the requested page. Commands are sorted without building
+     * any text, and recently requested pages are kept in a least recently used
+     * cache. This is recommended over {@link #getContents()} for plugins with
+     * a large number of commands.</p>
+     * 
+     * @param page The page, starting from one
+     * @return The content entries of the page, or an empty list if the page
+     *         does not exist
+     */
+    List<ContentEntry> getPage(int page);
+
+    /**
+     * Gets the {@link ContentEntry}s of a single page of the pagination list,
+     * containing only the commands that the specified {@link Subject} has
+     * permission to use.
+     * 
+     * @param subject The subject to filter the entries for
+     * @param page The page, starting from one
+     * @return The content entries of the page, or an empty list if the page
+     *         does not exist
+     * @see #getPage(int)
+     * @see #getList(Subject)
+     */
+    List<ContentEntry> getPage(Subject subject, int page);
+
     /**
      * Gets the pagination list builder for this handler if further
-     * customization is necessary.
+     * customization is necessary. A new builder populated with the cached
+     * contents is returned each time, so changes made to it do not affect
+     * {@link #getList()}.
      * 
      * @return The pagination list builder
      */
@@ -145,6 +250,46 @@ public interface HelpPaginationHandler {
          */
         Builder commandOrdering(@Nullable CommandOrdering ordering);
 
+        /**
+         * Sets the number of {@link ContentEntry}s on each page returned by
+         * {@link HelpPaginationHandler#getPage(int)}. The lines per page of the
+         * pagination list sent to players are also set to fit this many
+         * entries along with its title, header and footer.
+         * 
+         * <p>Note that the sent pagination list is paged by rendered lines. An
+         * entry with a long usage or description may wrap onto several lines,
+         * in which case the pages shown to players will not match the pages
+         * returned by {@link HelpPaginationHandler#getPage(int)}.</p>
+         * 
+         * <p>The default is 10.</p>
+         * 
+         * @param contents The number of content entries per page
+         * @return The builder
+         */
+        Builder contentsPerPage(int contents);
+
+        /**
+         * Sets the number of rendered pages that are kept in the least
+         * recently used cache of {@link HelpPaginationHandler#getPage(int)}.
+         * 
+         * <p>The default is 8.</p>
+         * 
+         * @param pages The number of pages to cache
+         * @return The builder
+         */
+        Builder pageCacheSize(int pages);
+
+        /**
+         * Sets if the pagination list should be filtered by the permissions of
+         * the receiver, so that only commands the receiver may use are shown.
+         * 
+         * <p>The default is false.</p>
+         * 
+         * @param filter If the pagination list should be filtered
+         * @return The builder
+         */
+        Builder filterByPermission(boolean filter);
+
         /**
          * Builds the help pagination list.
          * 
@@ -25,6 +25,10 @@
 
 package com.xtra.api.util.config;
 
+import java.util.concurrent.CompletableFuture;
+
+import com.google.common.reflect.TypeToken;
+import com.xtra.api.config.ConfigValue;
 import com.xtra.api.config.base.ConfigBase;
 
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
@@ -42,6 +46,18 @@ public interface ConfigExecutor {
 
     void save(ConfigStore store);
 
+    void saveIfDirty(ConfigStore store);
+
+    CompletableFuture<Void> loadAsync(ConfigStore store);
+
+    CompletableFuture<Void> saveAsync(ConfigStore store);
+
+    boolean isDirty(ConfigStore store);
+
+    void markDirty(ConfigStore store, Object... path);
+
+    <T> ConfigValue<T> bind(ConfigBase base, TypeToken<T> type, T def, Object... path);
+
     ConfigurationLoader<CommentedConfigurationNode> loader(ConfigStore store);
 
     CommentedConfigurationNode rootNode(ConfigStore store);
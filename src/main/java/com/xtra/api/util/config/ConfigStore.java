@@ -35,7 +35,7 @@ public class ConfigStore {
 
     public XtraCorePluginContainer entry;
     public ConfigurationLoader<CommentedConfigurationNode> loader;
-    public CommentedConfigurationNode rootNode;
+    public volatile CommentedConfigurationNode rootNode;
     public ConfigBase base;
 
     public ConfigStore(XtraCorePluginContainer entry, ConfigurationLoader<CommentedConfigurationNode> loader, CommentedConfigurationNode rootNode,